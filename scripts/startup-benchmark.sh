@@ -0,0 +1,131 @@
+#!/usr/bin/env bash
+# Compares the default startup with the "fast" profile (+ AppCDS archive, with and without Spring AOT).
+# For each run it reports:
+#   ready  - time from JVM launch until /actuator/health/readiness answers 200 (ACCEPTING_TRAFFIC)
+#   first  - latency of the first /api/campus request after that
+#   p50/p99/max - /api/campus latency over the following duration_seconds
+#
+# Usage: scripts/startup-benchmark.sh [duration_seconds]
+# Run from the project root. Uses a scratch database under target/bench, never ./data.
+set -euo pipefail
+
+DURATION=${1:-60}
+PORT=8080
+BASE="http://localhost:$PORT"
+URL="$BASE/api/campus"
+READY="$BASE/actuator/health/readiness"
+WORK=$(pwd)/target/bench
+DB_ARG="--spring.datasource.url=jdbc:h2:file:$WORK/db/bookingdb"
+MAIN=com.iit.booking.BookingApplication
+
+# Seed size: BUILDINGS x FLOORS x ROOMS_PER_FLOOR rooms, USERS students
+BUILDINGS=10
+FLOORS=4
+ROOMS_PER_FLOOR=10
+USERS=300
+
+port_free() { ! (exec 3<>"/dev/tcp/localhost/$PORT") 2>/dev/null; }
+port_free || { echo "port $PORT is already in use, stop the running instance first" >&2; exit 1; }
+
+rm -rf "$WORK" && mkdir -p "$WORK"
+
+# CDS only archives classes loaded from plain jars on the classpath, so unpack the fat jar
+# $1 = target directory
+unpack() {
+    local jar
+    jar=$(ls target/*.jar | head -1)
+    mkdir -p "$1" && (cd "$1" && jar -xf "$OLDPWD/$jar")
+    jar -cf "$1/application.jar" -C "$1/BOOT-INF/classes" .
+}
+mvn -B -q -DskipTests package && unpack "$WORK/std"
+mvn -B -q -DskipTests -Paot package && unpack "$WORK/aot"
+
+now_ms() { date +%s%3N; }
+
+# $1 = pid of the app, fails if it exits before reporting ready
+wait_for_ready() {
+    until curl -sf -o /dev/null "$READY"; do
+        kill -0 "$1" 2>/dev/null || { echo "app exited before becoming ready, see $WORK/*.log" >&2; exit 1; }
+        sleep 0.05
+    done
+}
+
+# $1 = pid, waits until the process is gone and the port is released
+stop() {
+    kill "$1" && wait "$1" || true
+    until port_free; do sleep 0.1; done
+}
+
+# $1 = label, $2 = unpacked app directory, rest = java options; sets APP_PID
+start() {
+    local label=$1 dir=$2; shift 2
+    java "$@" -cp "$dir/application.jar:$dir/BOOT-INF/lib/*" "$MAIN" "$DB_ARG" > "$WORK/$label.log" 2>&1 &
+    APP_PID=$!
+}
+
+post() { curl -sf -H 'Content-Type: application/json' -d "$2" "$BASE$1"; }
+
+# Seed run: the default profile creates the schema, then the campus and users go in through the API
+seed() {
+    start seed "$WORK/std"
+    wait_for_ready "$APP_PID"
+    local b f r u
+    for ((b = 1; b <= BUILDINGS; b++)); do
+        post /api/building "{\"name\":\"Block $b\",\"floors\":$FLOORS}" > /dev/null
+    done
+    for f in $(curl -sf "$URL" | grep -o '"id":[0-9]*,"floorNumber"' | grep -o '[0-9]*'); do
+        for ((r = 1; r <= ROOMS_PER_FLOOR; r++)); do
+            post /api/room "{\"floorId\":$f,\"name\":\"F$f-R$r\",\"capacity\":60,\"type\":\"CLASSROOM\",\"hasSmartBoard\":true,\"resources\":\"Projector\"}" > /dev/null
+        done
+    done
+    for ((u = 1; u <= USERS; u++)); do
+        post /api/register "{\"role\":\"STUDENT\",\"name\":\"Student $u\",\"email\":\"s$u@iittp.ac.in\",\"password\":\"pw\",\"specificId\":\"CS$u\",\"branch\":\"CSE\",\"program\":\"BTech\"}" > /dev/null
+    done
+    stop "$APP_PID"
+}
+
+# CDS training run: the archive is written when the JVM exits
+# $1 = label, $2 = unpacked app directory, rest = java options
+train() {
+    local label=$1 dir=$2; shift 2
+    start "$label-train" "$dir" -XX:ArchiveClassesAtExit="$WORK/$label.jsa" "$@"
+    wait_for_ready "$APP_PID"
+    curl -sf -o /dev/null "$URL"
+    stop "$APP_PID"
+    [ -f "$WORK/$label.jsa" ] || { echo "CDS archive was not written, see $WORK/$label-train.log" >&2; exit 1; }
+}
+
+# $1 = label, $2 = unpacked app directory, rest = java options
+run() {
+    local label=$1 dir=$2; shift 2
+    local t0 t1 first
+    t0=$(now_ms)
+    start "$label" "$dir" "$@"
+    wait_for_ready "$APP_PID"
+    t1=$(now_ms)
+    first=$(curl -sf -o /dev/null -w '%{time_total}' "$URL")
+
+    local end=$(( $(date +%s) + DURATION ))
+    : > "$WORK/$label.lat"
+    while [ "$(date +%s)" -lt "$end" ]; do
+        curl -sf -o /dev/null -w '%{time_total}\n' "$URL" >> "$WORK/$label.lat"
+    done
+    stop "$APP_PID"
+
+    sort -n "$WORK/$label.lat" | awk -v l="$label" -v ready=$((t1 - t0)) -v first="$first" '
+        { v[NR] = $1 * 1000 }
+        END {
+            printf "%-9s ready=%6d ms  first=%7.2f ms  n=%6d  p50=%7.2f ms  p99=%7.2f ms  max=%7.2f ms\n",
+                l, ready, first * 1000, NR, v[int(NR * 0.50) + 1], v[int(NR * 0.99) + 1], v[NR]
+        }'
+}
+
+seed
+FAST="-Dspring.profiles.active=fast"
+AOT="-Dspring.aot.enabled=true"
+train fast "$WORK/std" $FAST
+train aot "$WORK/aot" $FAST $AOT
+
+run baseline "$WORK/std"
+run fast "$WORK/std" $FAST -XX:SharedArchiveFile="$WORK/fast.jsa"
+run fast-aot "$WORK/aot" $FAST $AOT -XX:SharedArchiveFile="$WORK/aot.jsa"
@@ -0,0 +1,66 @@
+package com.iit.booking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iit.booking.repo.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Loads and serializes the reference data (campus tree, rooms, users) once at startup so the
+// first real requests don't pay for connection pool, Hibernate, H2 page cache and Jackson warm-up.
+// Tomcat is already accepting connections while this runs; only /actuator/health/readiness
+// waits for it (runners finish before Spring Boot reports ACCEPTING_TRAFFIC).
+@Component
+@ConditionalOnProperty(name = "booking.warmup.enabled", havingValue = "true")
+public class StartupWarmer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmer.class);
+
+    @Autowired private BuildingRepository buildingRepo;
+    @Autowired private RoomRepository roomRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private PlatformTransactionManager txManager;
+    @Autowired private ObjectMapper mapper;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(true);
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> tx.executeWithoutResult(s -> serialize(buildingRepo.findAll())), pool),
+                    CompletableFuture.runAsync(() -> tx.executeWithoutResult(s -> serialize(roomRepo.findAll())), pool),
+                    CompletableFuture.runAsync(() -> tx.executeWithoutResult(s -> serialize(userRepo.findAll())), pool)
+            ).join();
+            log.info("Startup warm-up finished in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // Warm-up is best effort, a failure here must not keep the app from serving
+            log.warn("Startup warm-up failed", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Serializing inside the transaction walks the same Building -> Floor -> Room graph
+    // that /api/campus returns, and loads the Jackson serializers for it
+    private void serialize(Object data) {
+        try {
+            mapper.writeValueAsBytes(data);
+        } catch (Exception e) {
+            throw new RuntimeException("Warm-up serialization failed", e);
+        }
+    }
+}